@@ -0,0 +1,25 @@
+package com.ohgiraffers.session.auth.model.dao;
+
+import com.ohgiraffers.session.auth.model.dto.RememberMeTokenDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface RememberMeTokenMapper {
+
+    int insertToken(RememberMeTokenDTO token);
+
+    RememberMeTokenDTO findBySeries(String series);
+
+    int updateLastUsed(List<RememberMeTokenDTO> tokens);
+
+    int deleteBySeries(String series);
+
+    int deleteByUsername(String username);
+
+    int deleteExpired(@Param("lastUsedThreshold") LocalDateTime lastUsedThreshold,
+                      @Param("createdThreshold") LocalDateTime createdThreshold);
+}
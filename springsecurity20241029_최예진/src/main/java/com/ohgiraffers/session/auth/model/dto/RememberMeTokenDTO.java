@@ -0,0 +1,77 @@
+package com.ohgiraffers.session.auth.model.dto;
+
+import java.time.LocalDateTime;
+
+/* 설명. tbl_remember_me_token 한 행(row)에 해당하는 remember-me 토큰 정보
+ *  토큰 값 자체는 쿠키에만 존재하고, DB에는 그 값의 SHA-256 해시(tokenHash)만 저장한다.
+ * */
+public class RememberMeTokenDTO {
+
+    private String series;              // 토큰 시리즈(쿠키에 담기는 식별자)
+    private String username;            // 사용자 로그인 ID
+    private String tokenHash;           // 토큰 값의 SHA-256 해시(hex)
+    private LocalDateTime createdAt;    // 발급 일시(절대 수명 기준)
+    private LocalDateTime lastUsed;     // 마지막 사용 일시
+
+    public RememberMeTokenDTO() {
+    }
+
+    public RememberMeTokenDTO(String series, String username, String tokenHash,
+                              LocalDateTime createdAt, LocalDateTime lastUsed) {
+        this.series = series;
+        this.username = username;
+        this.tokenHash = tokenHash;
+        this.createdAt = createdAt;
+        this.lastUsed = lastUsed;
+    }
+
+    public String getSeries() {
+        return series;
+    }
+
+    public void setSeries(String series) {
+        this.series = series;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getLastUsed() {
+        return lastUsed;
+    }
+
+    public void setLastUsed(LocalDateTime lastUsed) {
+        this.lastUsed = lastUsed;
+    }
+
+    @Override
+    public String toString() {
+        return "RememberMeTokenDTO{" +
+                "series='" + series + '\'' +
+                ", username='" + username + '\'' +
+                ", createdAt=" + createdAt +
+                ", lastUsed=" + lastUsed +
+                '}';
+    }
+}
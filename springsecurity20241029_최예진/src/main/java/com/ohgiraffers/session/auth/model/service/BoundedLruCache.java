@@ -0,0 +1,78 @@
+package com.ohgiraffers.session.auth.model.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/* 설명. 크기와 유효 시간(TTL)이 제한된 메모리 캐시
+ *  accessOrder = true인 LinkedHashMap으로 가장 오래 사용되지 않은 항목부터 밀어내고,
+ *  저장한 지 ttl-seconds가 지난 항목은 조회 시점에 버린다.
+ *  CachingDaoAuthenticationProvider(검증된 비밀번호)와 RememberMeTokenStore(remember-me 토큰)가 함께 사용한다.
+ * */
+final class BoundedLruCache<K, V> {
+
+    private final Map<K, Entry<V>> map;
+    private final long ttlMillis;
+
+    BoundedLruCache(int maxSize, int ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.map = Collections.synchronizedMap(new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /* 설명. 없거나 TTL이 지난 항목이면 null을 반환한다. (TTL이 지난 항목은 이 때 함께 지운다) */
+    V get(K key) {
+
+        Entry<V> entry = map.get(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() - entry.storedAt > ttlMillis) {
+            map.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    void put(K key, V value) {
+        map.put(key, new Entry<>(value));
+    }
+
+    void remove(K key) {
+        map.remove(key);
+    }
+
+    /* 설명. 그 사이 다른 스레드가 새 값을 넣었다면 지우지 않는다. */
+    void remove(K key, V value) {
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (!Objects.isNull(entry) && entry.value == value) {
+                map.remove(key);
+            }
+        }
+    }
+
+    void removeIf(Predicate<V> filter) {
+        synchronized (map) {
+            map.values().removeIf(entry -> filter.test(entry.value));
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long storedAt;
+
+        Entry(V value) {
+            this.value = value;
+            this.storedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ohgiraffers.session.auth.model.service;
+
+import com.ohgiraffers.session.config.CredentialCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Objects;
+
+/* 설명. 최근에 검증된 비밀번호를 잠시 기억하여 반복되는 BCrypt 검증을 생략하는 AuthenticationProvider
+ *  스크립트, 키오스크처럼 같은 계정으로 짧은 시간에 여러 번 로그인하는 클라이언트는 매번 BCrypt matches() 비용을 치른다.
+ *  credential-cache.enabled가 true이면, BCrypt 검증에 성공한 비밀번호의 HMAC을 username 별로 ttl-seconds 동안 보관하고
+ *  같은 비밀번호가 다시 들어오면 HMAC 비교만으로 인증한다.
+ *  =======================================================================================================
+ *  보안상 유의할 점:
+ *   1. 평문 비밀번호는 저장하지 않는다. HMAC 키는 기동 시마다 새로 만들어지고 메모리에만 존재한다.
+ *   2. HMAC은 현재 DB에 저장된 비밀번호 해시까지 묶어서 계산한다.
+ *      로그인할 때마다 AuthService가 DB에서 해시를 다시 읽으므로, 해시가 바뀌면 즉시 캐시가 무효화된다.
+ *   3. 실패한 로그인은 캐시하지 않으며, 틀린 비밀번호는 항상 BCrypt 검증을 거친다.
+ *      이 때 기존 항목은 지우지 않으므로, 틀린 시도로 정상 클라이언트의 캐시를 비울 수 없다.
+ *  캐시 적중/미적중 횟수는 auth.credential.cache 메트릭(result=hit|miss)으로 확인할 수 있다.
+ * */
+@Component
+public class CachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private CredentialCacheProperties properties;
+
+    private final SecretKeySpec hmacKey;
+    private final BoundedLruCache<String, VerifiedCredential> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public CachingDaoAuthenticationProvider(AuthService authService, PasswordEncoder encoder,
+                                            CredentialCacheProperties properties, MeterRegistry meterRegistry) {
+        super(encoder);
+        setUserDetailsService(authService);
+        this.properties = properties;
+
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.hmacKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+
+        this.cache = new BoundedLruCache<>(properties.getMaxSize(), properties.getTtlSeconds());
+
+        this.hitCounter = Counter.builder("auth.credential.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.credential.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /* 설명. DaoAuthenticationProvider가 BCrypt로 비밀번호를 비교하는 지점이다. */
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+
+        if (!properties.isEnabled() || Objects.isNull(authentication.getCredentials())) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+
+        String username = userDetails.getUsername();
+        String storedHash = userDetails.getPassword();
+        byte[] presented = hmac(username, storedHash, authentication.getCredentials().toString());
+
+        VerifiedCredential cached = cache.get(username);
+        if (!Objects.isNull(cached)) {
+            if (!cached.storedHash.equals(storedHash)) {
+                /* 설명. DB의 비밀번호 해시가 바뀐 항목만 버린다. (TTL이 지난 항목은 cache.get()에서 걸러진다) */
+                cache.remove(username, cached);
+            } else if (MessageDigest.isEqual(cached.hmac, presented)) {
+                hitCounter.increment();
+                return;
+            }
+            /* 설명. 비밀번호만 틀린 경우에는 항목을 그대로 두고 BCrypt 검증으로 넘어간다.
+             *  (오타나 제3자의 추측으로 정상 클라이언트의 캐시가 지워지지 않도록)
+             * */
+        }
+
+        missCounter.increment();
+
+        /* 설명. 실패 시 BadCredentialsException이 던져지므로 아래 캐시 저장은 성공한 경우에만 수행된다. */
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        cache.put(username, new VerifiedCredential(storedHash, presented));
+    }
+
+    private byte[] hmac(String username, String storedHash, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+
+            /* 설명. 구분자(\0)를 넣어 필드 경계가 모호해지지 않도록 한다. */
+            String message = username + '\0' + storedHash + '\0' + rawPassword;
+            return mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC을 계산할 수 없습니다.", e);
+        }
+    }
+
+    private static class VerifiedCredential {
+
+        private final String storedHash;
+        private final byte[] hmac;
+
+        VerifiedCredential(String storedHash, byte[] hmac) {
+            this.storedHash = storedHash;
+            this.hmac = hmac;
+        }
+    }
+}
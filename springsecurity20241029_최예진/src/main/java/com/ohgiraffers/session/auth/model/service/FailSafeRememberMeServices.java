@@ -0,0 +1,48 @@
+package com.ohgiraffers.session.auth.model.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.RememberMeServices;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+/* 설명. DB 장애가 remember-me 때문에 500 응답으로 번지지 않도록 RememberMeService를 감싸는 클래스
+ *  AbstractRememberMeServices.autoLogin()은 remember-me/쿠키/계정 관련 예외만 처리하고(이 때 쿠키를 삭제한다),
+ *  DataAccessException은 그대로 던진다. 여기서 이를 받아 익명 사용자로 처리하면
+ *  remember-me 쿠키는 그대로 남아 있으므로, DB가 복구된 뒤 다시 자동 로그인할 수 있다.
+ * */
+public class FailSafeRememberMeServices implements RememberMeServices, LogoutHandler {
+
+    private final RememberMeService delegate;
+
+    public FailSafeRememberMeServices(RememberMeService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Authentication autoLogin(HttpServletRequest request, HttpServletResponse response) {
+        try {
+            return delegate.autoLogin(request, response);
+        } catch (DataAccessException e) {
+            System.out.println("[Remember-Me] DB 오류로 자동 로그인을 건너뜁니다(쿠키 유지) : " + e);
+            return null;
+        }
+    }
+
+    @Override
+    public void loginFail(HttpServletRequest request, HttpServletResponse response) {
+        delegate.loginFail(request, response);
+    }
+
+    @Override
+    public void loginSuccess(HttpServletRequest request, HttpServletResponse response,
+                             Authentication successfulAuthentication) {
+        delegate.loginSuccess(request, response, successfulAuthentication);
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        delegate.logout(request, response, authentication);
+    }
+}
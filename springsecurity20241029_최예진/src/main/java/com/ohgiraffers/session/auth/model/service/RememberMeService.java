@@ -0,0 +1,188 @@
+package com.ohgiraffers.session.auth.model.service;
+
+import com.ohgiraffers.session.auth.model.dto.RememberMeTokenDTO;
+import com.ohgiraffers.session.config.RememberMeProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.rememberme.AbstractRememberMeServices;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+import org.springframework.security.web.authentication.rememberme.InvalidCookieException;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/* 설명. 영속 토큰(persistent token) 방식의 remember-me 서비스
+ *  로그인 시 'remember-me' 체크박스를 선택하면 시리즈(series)와 토큰(token) 값을 쿠키로 발급하고,
+ *  세션이 만료된 뒤에도 이 쿠키로 다시 인증한다.
+ *  이 때, 폼 로그인과 달리 BCrypt 비밀번호 검증을 거치지 않는다.
+ *  =======================================================================================================
+ *  Spring Security의 PersistentTokenBasedRememberMeServices와의 차이점:
+ *   1. DB에는 토큰 값의 평문이 아닌 SHA-256 해시만 저장한다.
+ *      (토큰은 충분히 긴 난수이므로 BCrypt처럼 느린 해시가 필요 없다)
+ *   2. 자동 로그인마다 토큰을 재발급하지 않는다. 덕분에 사용 시점(last_used)만 모아서 반영할 수 있다.
+ *      대신 탈취된 쿠키와 정상 쿠키가 같은 값을 보내므로 쿠키 탈취는 감지할 수 없다.
+ *      그래서 마지막 사용 시점 기준 유효 기간과 별개로, 발급 시점(created_at) 기준 절대 수명을 두어
+ *      탈취된 쿠키도 max-lifetime-seconds가 지나면 더 이상 사용할 수 없게 한다.
+ *   3. 알려진 시리즈에 다른 토큰이 제시되면(추측/위조된 토큰) 해당 사용자의 토큰을 모두 삭제한다.
+ *   4. 로그아웃(및 maximumSessions(1)로 밀려난 세션의 정리) 시에는 제시된 쿠키의 시리즈 하나만 삭제하여
+ *      다른 기기의 remember-me는 유지한다.
+ *  =======================================================================================================
+ *  DB 장애 시 처리:
+ *   자동 로그인 중 발생한 DataAccessException은 RememberMeAuthenticationException으로 바꾸지 않는다.
+ *   (바꾸면 autoLogin()이 쿠키를 삭제하므로, 짧은 DB 장애만으로 사용자의 remember-me 쿠키가 모두 사라진다)
+ *   대신 autoLogin()을 그대로 빠져나가게 두고, FailSafeRememberMeServices가 받아서 익명 사용자로 처리한다.
+ *   로그아웃과 위조 토큰 대응에서의 삭제 실패는 로그만 남기고 나머지 처리를 마친다.
+ * */
+@Service
+public class RememberMeService extends AbstractRememberMeServices {
+
+    private static final int SERIES_LENGTH = 16;
+    private static final int TOKEN_LENGTH = 16;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private RememberMeTokenStore tokenStore;
+    private int maxLifetimeSeconds;
+
+    @Autowired
+    public RememberMeService(RememberMeProperties properties, AuthService authService,
+                             RememberMeTokenStore tokenStore) {
+        super(resolveKey(properties.getKey()), authService);
+        this.tokenStore = tokenStore;
+        this.maxLifetimeSeconds = properties.getMaxLifetimeSeconds();
+        setTokenValiditySeconds(properties.getTokenValiditySeconds());
+    }
+
+    /* 설명. 폼 로그인에 성공했고 remember-me가 요청된 경우 새 시리즈를 발급한다. */
+    @Override
+    protected void onLoginSuccess(HttpServletRequest request, HttpServletResponse response,
+                                  Authentication successfulAuthentication) {
+
+        String series = generateRandomValue(SERIES_LENGTH);
+        String token = generateRandomValue(TOKEN_LENGTH);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            tokenStore.createToken(new RememberMeTokenDTO(series, successfulAuthentication.getName(),
+                                                          hash(token), now, now));
+            /* 설명. 쿠키를 다시 내려주지 않으므로, 브라우저도 절대 수명 동안 쿠키를 보관하게 한다. */
+            setCookie(new String[] {series, token}, maxLifetimeSeconds, request, response);
+        } catch (DataAccessException e) {
+            /* 설명. 토큰 저장에 실패해도 이번 폼 로그인 자체는 성공으로 처리한다. */
+            e.printStackTrace();
+        }
+    }
+
+    /* 설명. remember-me 쿠키로 자동 로그인을 시도할 때 호출된다. */
+    @Override
+    protected UserDetails processAutoLoginCookie(String[] cookieTokens, HttpServletRequest request,
+                                                 HttpServletResponse response)
+            throws RememberMeAuthenticationException, UsernameNotFoundException {
+
+        if (cookieTokens.length != 2) {
+            throw new InvalidCookieException("remember-me 쿠키 형식이 올바르지 않습니다.");
+        }
+
+        String series = cookieTokens[0];
+        String presentedToken = cookieTokens[1];
+
+        RememberMeTokenDTO token = tokenStore.findBySeries(series);
+
+        if (Objects.isNull(token)) {
+            throw new RememberMeAuthenticationException("remember-me 토큰이 존재하지 않습니다.");
+        }
+
+        /* 설명. 해시 비교는 비교 시간으로 값이 유추되지 않도록 MessageDigest.isEqual()을 사용한다. */
+        if (!MessageDigest.isEqual(token.getTokenHash().getBytes(StandardCharsets.US_ASCII),
+                                   hash(presentedToken).getBytes(StandardCharsets.US_ASCII))) {
+            try {
+                tokenStore.removeUserTokens(token.getUsername());
+            } catch (DataAccessException e) {
+                /* 설명. 토큰 삭제에 실패해도 이번 자동 로그인은 거부해야 하므로 로그만 남긴다. */
+                e.printStackTrace();
+            }
+            throw new CookieTheftException("remember-me 토큰이 일치하지 않습니다. 위조된 토큰이 의심됩니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getLastUsed().plusSeconds(getTokenValiditySeconds()).isBefore(now)) {
+            throw new RememberMeAuthenticationException("remember-me 토큰이 만료되었습니다.");
+        }
+
+        if (token.getCreatedAt().plusSeconds(maxLifetimeSeconds).isBefore(now)) {
+            throw new RememberMeAuthenticationException("remember-me 토큰의 최대 수명이 지났습니다.");
+        }
+
+        tokenStore.markUsed(series, now);
+
+        return getUserDetailsService().loadUserByUsername(token.getUsername());
+    }
+
+    /* 설명. 로그아웃 시 쿠키와 함께, 이 쿠키의 시리즈만 삭제한다.
+     *  이 핸들러는 maximumSessions(1)로 밀려난 세션을 정리할 때도(ConcurrentSessionFilter) 호출되므로,
+     *  사용자의 토큰을 모두 지우면 방금 로그인한 다른 기기의 토큰까지 사라진다.
+     * */
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        super.logout(request, response, authentication);
+
+        String cookieValue = extractRememberMeCookie(request);
+        if (Objects.isNull(cookieValue) || cookieValue.isEmpty()) {
+            return;
+        }
+
+        try {
+            String[] cookieTokens = decodeCookie(cookieValue);
+            if (cookieTokens.length == 2) {
+                tokenStore.removeSeries(cookieTokens[0]);
+            }
+        } catch (InvalidCookieException e) {
+            /* 설명. 형식이 잘못된 쿠키는 위에서 이미 삭제(cancel)되었으므로 더 할 일이 없다. */
+        } catch (DataAccessException e) {
+            /* 설명. 시리즈 삭제에 실패해도 로그아웃(쿠키 삭제, 세션 무효화)은 끝까지 진행한다. */
+            e.printStackTrace();
+        }
+    }
+
+    /* 설명. 영속 토큰 방식에서 키는 세션에 저장되는 RememberMeAuthenticationToken 검증에만 쓰이므로,
+     *  따로 지정하지 않으면 기동마다 무작위 키를 만든다.
+     * */
+    private static String resolveKey(String key) {
+        if (!Objects.isNull(key) && !key.isBlank()) {
+            return key;
+        }
+
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private String generateRandomValue(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
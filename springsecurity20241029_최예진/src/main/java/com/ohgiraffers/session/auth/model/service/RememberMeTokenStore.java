@@ -0,0 +1,173 @@
+package com.ohgiraffers.session.auth.model.service;
+
+import com.ohgiraffers.session.auth.model.dao.RememberMeTokenMapper;
+import com.ohgiraffers.session.auth.model.dto.RememberMeTokenDTO;
+import com.ohgiraffers.session.config.RememberMeProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 설명. remember-me 토큰 저장소
+ *  자동 로그인마다 DB를 조회/갱신하지 않도록 다음과 같이 동작한다.
+ *   1. 최근 조회한 시리즈는 크기가 제한된 LRU 캐시에 보관하고, cache-ttl-seconds 동안은 DB 재조회 없이 사용한다.
+ *      (다른 노드에서 삭제된 토큰은 최대 TTL 동안 이 노드에서 계속 인증될 수 있으므로 TTL은 짧게 유지한다)
+ *   2. 토큰 사용 시점(last_used)은 메모리에 모아두었다가 flush-interval-ms 마다 UPDATE 한 번으로 반영한다.
+ *      (캐시된 항목의 사용 시점도 함께 갱신하므로, 반영 후에도 캐시가 오래된 last_used를 돌려주지 않는다)
+ *   3. purge-interval-ms 마다 유효 기간 또는 절대 수명이 지난 토큰을 DB와 캐시에서 정리한다.
+ *  DB 오류(DataAccessException)는 여기서 삼키지 않고 호출하는 쪽(RememberMeService)에 그대로 전달한다.
+ * */
+@Service
+public class RememberMeTokenStore {
+
+    /* 설명. last_used 일괄 반영 시, UPDATE 한 번에 담을 최대 시리즈 개수 */
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private RememberMeTokenMapper tokenMapper;
+    private RememberMeProperties properties;
+
+    private final BoundedLruCache<String, CachedToken> cache;
+    private final Map<String, LocalDateTime> pendingLastUsed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RememberMeTokenStore(RememberMeTokenMapper tokenMapper, RememberMeProperties properties) {
+        this.tokenMapper = tokenMapper;
+        this.properties = properties;
+        this.cache = new BoundedLruCache<>(properties.getCacheSize(), properties.getCacheTtlSeconds());
+    }
+
+    public void createToken(RememberMeTokenDTO token) {
+        tokenMapper.insertToken(token);
+        cache.put(token.getSeries(), new CachedToken(token));
+    }
+
+    /* 설명. 캐시에 신뢰할 수 있는 시리즈가 있으면 DB를 조회하지 않는다.
+     *  반환 값의 lastUsed에는 아직 DB에 반영되지 않은 사용 시점까지 포함된다.
+     * */
+    public RememberMeTokenDTO findBySeries(String series) {
+
+        CachedToken cached = cache.get(series);
+
+        if (Objects.isNull(cached)) {
+            RememberMeTokenDTO token = tokenMapper.findBySeries(series);
+
+            if (Objects.isNull(token)) {
+                cache.remove(series);
+                return null;
+            }
+            cached = new CachedToken(token);
+            cache.put(series, cached);
+        }
+
+        LocalDateTime lastUsed = cached.lastUsed;
+        LocalDateTime pending = pendingLastUsed.get(series);
+        if (!Objects.isNull(pending) && pending.isAfter(lastUsed)) {
+            lastUsed = pending;
+        }
+
+        RememberMeTokenDTO token = cached.token;
+        return new RememberMeTokenDTO(token.getSeries(), token.getUsername(), token.getTokenHash(),
+                                      token.getCreatedAt(), lastUsed);
+    }
+
+    /* 설명. 사용 시점은 바로 UPDATE 하지 않고 모아두었다가 flushLastUsed()에서 한 번에 반영한다. */
+    public void markUsed(String series, LocalDateTime usedAt) {
+        pendingLastUsed.merge(series, usedAt, (before, after) -> after.isAfter(before) ? after : before);
+
+        CachedToken cached = cache.get(series);
+        if (!Objects.isNull(cached)) {
+            cached.touch(usedAt);
+        }
+    }
+
+    /* 설명. 로그아웃한(또는 세션이 밀려난) 기기의 시리즈 하나만 삭제한다. */
+    public void removeSeries(String series) {
+        tokenMapper.deleteBySeries(series);
+        cache.remove(series);
+        pendingLastUsed.remove(series);
+    }
+
+    /* 설명. 위조된 토큰이 제시된 경우처럼, 해당 사용자의 모든 기기에서 remember-me를 끊어야 할 때 사용한다. */
+    public void removeUserTokens(String username) {
+        tokenMapper.deleteByUsername(username);
+
+        cache.removeIf(cached -> username.equals(cached.token.getUsername()));
+    }
+
+    @Scheduled(fixedDelayString = "${remember-me.flush-interval-ms:10000}")
+    public void flushLastUsed() {
+
+        if (pendingLastUsed.isEmpty()) {
+            return;
+        }
+
+        /* 설명. 꺼내는 사이에 더 최신 값으로 바뀐 시리즈는 남겨두고 다음 주기에 반영한다. */
+        List<RememberMeTokenDTO> batch = new ArrayList<>();
+        for (Map.Entry<String, LocalDateTime> entry : pendingLastUsed.entrySet()) {
+            if (pendingLastUsed.remove(entry.getKey(), entry.getValue())) {
+                batch.add(new RememberMeTokenDTO(entry.getKey(), null, null, null, entry.getValue()));
+            }
+        }
+
+        for (int from = 0; from < batch.size(); from += FLUSH_CHUNK_SIZE) {
+            List<RememberMeTokenDTO> chunk = batch.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, batch.size()));
+
+            try {
+                tokenMapper.updateLastUsed(chunk);
+            } catch (DataAccessException e) {
+                /* 설명. 반영에 실패한 사용 시점은 다시 모아두어 다음 주기에 재시도한다. */
+                for (RememberMeTokenDTO token : chunk) {
+                    markUsed(token.getSeries(), token.getLastUsed());
+                }
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${remember-me.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+
+        /* 설명. 최근에 사용된 토큰이 오래된 last_used 값 때문에 지워지지 않도록 먼저 반영한다. */
+        flushLastUsed();
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastUsedThreshold = now.minusSeconds(properties.getTokenValiditySeconds());
+        LocalDateTime createdThreshold = now.minusSeconds(properties.getMaxLifetimeSeconds());
+        int purged = tokenMapper.deleteExpired(lastUsedThreshold, createdThreshold);
+
+        cache.removeIf(cached -> cached.lastUsed.isBefore(lastUsedThreshold)
+                                 || cached.token.getCreatedAt().isBefore(createdThreshold));
+
+        System.out.println("만료된 remember-me 토큰 정리 => " + purged);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flushLastUsed();
+    }
+
+    private static class CachedToken {
+
+        private final RememberMeTokenDTO token;
+        private volatile LocalDateTime lastUsed;
+
+        CachedToken(RememberMeTokenDTO token) {
+            this.token = token;
+            this.lastUsed = token.getLastUsed();
+        }
+
+        synchronized void touch(LocalDateTime usedAt) {
+            if (usedAt.isAfter(lastUsed)) {
+                lastUsed = usedAt;
+            }
+        }
+    }
+}
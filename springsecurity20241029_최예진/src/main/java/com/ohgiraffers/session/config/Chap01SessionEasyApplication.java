@@ -4,6 +4,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /* 설명. config 패키지 생성 후, 설정 관련 클래스는 해당 패키지에 몰아넣을 것이다.
  *  아래 @SpringBootApplicaiton 같은 경우, Component Scan 기능의 디폴트 스캔 경로가 이동되었기 때문에
@@ -11,6 +12,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * */
 @SpringBootApplication(scanBasePackages = "com.ohgiraffers.session")
 @MapperScan(basePackages = "com.ohgiraffers.session", annotationClass = Mapper.class)
+/* 설명. remember-me 토큰의 last_used 일괄 반영 및 만료 토큰 정리(@Scheduled)를 위해 스케줄링을 활성화한다. */
+@EnableScheduling
 public class Chap01SessionEasyApplication {
 
     public static void main(String[] args) {
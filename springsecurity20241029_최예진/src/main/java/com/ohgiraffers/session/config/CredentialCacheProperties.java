@@ -0,0 +1,41 @@
+package com.ohgiraffers.session.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/* 설명. application.yaml의 credential-cache.* 설정 값을 바인딩하는 객체
+ *  같은 계정으로 짧은 시간 안에 반복 로그인하는 클라이언트를 위해 BCrypt 검증 결과를 잠시 기억할지 여부를 설정한다.
+ *  (디폴트는 비활성화)
+ * */
+@Component
+@ConfigurationProperties(prefix = "credential-cache")
+public class CredentialCacheProperties {
+
+    private boolean enabled = false;    // 검증된 자격 증명 캐시 사용 여부
+    private int ttlSeconds = 60;        // 한 번 검증된 비밀번호를 BCrypt 없이 인정하는 시간
+    private int maxSize = 1000;         // 캐시에 보관할 최대 사용자 수
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(int ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
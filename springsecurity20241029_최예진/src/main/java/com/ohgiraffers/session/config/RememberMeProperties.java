@@ -0,0 +1,58 @@
+package com.ohgiraffers.session.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/* 설명. application.yaml의 remember-me.* 설정 값을 바인딩하는 객체
+ *  (last_used 일괄 반영 주기와 만료 토큰 정리 주기는 @Scheduled에서 직접 참조한다)
+ * */
+@Component
+@ConfigurationProperties(prefix = "remember-me")
+public class RememberMeProperties {
+
+    private String key;                             // remember-me 인증 객체 검증용 키(미지정 시 기동마다 무작위 생성)
+    private int tokenValiditySeconds = 1209600;     // 토큰 유효 기간(마지막 사용 시점 기준, 디폴트 2주)
+    private int maxLifetimeSeconds = 2592000;       // 토큰 절대 수명(발급 시점 기준, 디폴트 30일)
+    private int cacheSize = 1000;                   // 메모리에 보관할 최근 시리즈 최대 개수
+    private int cacheTtlSeconds = 30;               // 캐시된 시리즈를 DB 재조회 없이 신뢰하는 시간(= 다른 노드의 삭제가 반영되기까지 최대 지연)
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public int getTokenValiditySeconds() {
+        return tokenValiditySeconds;
+    }
+
+    public void setTokenValiditySeconds(int tokenValiditySeconds) {
+        this.tokenValiditySeconds = tokenValiditySeconds;
+    }
+
+    public int getMaxLifetimeSeconds() {
+        return maxLifetimeSeconds;
+    }
+
+    public void setMaxLifetimeSeconds(int maxLifetimeSeconds) {
+        this.maxLifetimeSeconds = maxLifetimeSeconds;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public int getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    public void setCacheTtlSeconds(int cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+}
@@ -1,6 +1,8 @@
 package com.ohgiraffers.session.config;
 
 import com.ohgiraffers.session.auth.model.UserRole;
+import com.ohgiraffers.session.auth.model.service.FailSafeRememberMeServices;
+import com.ohgiraffers.session.auth.model.service.RememberMeService;
 import com.ohgiraffers.session.exception.AuthFailHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
@@ -71,14 +73,20 @@ public class SecurityConfig {
      *   3. 로그아웃 관리 : 로그아웃 URL, 성공 핸들러, 로그아웃 후 쿠키 삭제 등
      *   4. 세션 관리 : 세션 고정 보호, 세션 만료, 세션 최대 허용 수 등
      *   5. CSRF : Cross-Site Request Forgery 보호 설정
+     *   6. Remember-Me : 세션이 만료된 뒤에도 영속 토큰 쿠키로 재인증(폼 로그인의 BCrypt 검증 생략)
      * */
     @Bean
-    public SecurityFilterChain filterChainConfigure(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChainConfigure(HttpSecurity http,
+                                                    RememberMeService rememberMeService) throws Exception {
 
         // #1. 접근 제어 : 서버의 리소스에 접근 가능한 권한을 URL 별로 매칭하여 설정.
         http.authorizeHttpRequests(auth -> {
             // 로그인, 회원가입, 실패 페이지와 Root Context는 모두에게 허용
             auth.requestMatchers("/auth/login", "/user/signup", "/auth/fail", "/").permitAll();
+            // 로드밸런서의 헬스 체크(liveness/readiness) 요청은 인증 없이 허용
+            auth.requestMatchers("/actuator/health/**").permitAll();
+            // 그 외 actuator 엔드포인트(metrics 등)는 "ADMIN" 권한을 가진 사용자만 접근 허용
+            auth.requestMatchers("/actuator/**").hasAnyAuthority(UserRole.ADMIN.getRole());
             // "/admin/*" 엔드포인트는 "ADMIN" 권한을 가진 사용자만 접근 허용
             auth.requestMatchers("/admin/*").hasAnyAuthority(UserRole.ADMIN.getRole());
             // "/user/*" 엔드포인트는 "USER" 권한을 가진 사용자만 접근 허용
@@ -102,8 +110,8 @@ public class SecurityConfig {
         }).logout(logout -> {
             // 로그아웃 경로 설정
             logout.logoutRequestMatcher(new AntPathRequestMatcher("/auth/logout"));
-            // 로그아웃 시, 클라이언트의 JSESSIONID 쿠키 삭제
-            logout.deleteCookies("JSESSIONID");
+            // 로그아웃 시, 클라이언트의 JSESSIONID 및 remember-me 쿠키 삭제
+            logout.deleteCookies("JSESSIONID", "remember-me");
             // 세션을 무효화(소멸)하는 설정
             logout.invalidateHttpSession(true);
             // 로그아웃 성공 시 이동할 페이지의 URL 경로
@@ -118,7 +126,14 @@ public class SecurityConfig {
         }).csrf(csrf ->
             // CSRF 보호 비활성화
             csrf.disable()
-        );
+        // #6. Remember-Me 설정
+        ).rememberMe(rememberMe -> {
+            // 토큰 해시 저장, 최근 시리즈 캐시, last_used 일괄 반영을 수행하는 직접 제작한 서비스 사용
+            // (DB 장애 시 500 응답 대신 익명 사용자로 처리하도록 감싸서 등록)
+            rememberMe.rememberMeServices(new FailSafeRememberMeServices(rememberMeService));
+            // 감싼 서비스는 AbstractRememberMeServices가 아니므로, 인증 객체 검증용 키를 직접 맞춰준다.
+            rememberMe.key(rememberMeService.getKey());
+        });
 
         return http.build();
     }
@@ -0,0 +1,85 @@
+package com.ohgiraffers.session.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/* 설명. application.yaml의 warmup.* 설정 값을 바인딩하는 객체
+ *  로그인 경로 warm-up 단계의 반복 횟수와 p99 안정화 판단 기준을 설정 파일에서 조절할 수 있게 한다.
+ * */
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;                         // warm-up 수행 여부
+    private String syntheticUsername = "__warmup__";        // DB에 존재하지 않는 가상 사용자 아이디
+    private String syntheticPassword = "warmup-password";   // 가상 사용자 비밀번호(평문)
+    private int poolConnections = 10;                       // 미리 채워둘 커넥션 수(풀의 maximum-pool-size를 넘지 않음)
+    private int batchSize = 100;                            // 한 라운드당 로그인 경로 호출 횟수(p99가 의미 있으려면 100 이상)
+    private int maxRounds = 6;                              // 최대 라운드 수(안정화되지 않아도 여기서 종료)
+    private int stableRounds = 2;                           // p99가 연속으로 안정되어야 하는 라운드 수
+    private double tolerance = 0.1;                         // 직전 라운드 대비 p99 변화 허용 비율
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSyntheticUsername() {
+        return syntheticUsername;
+    }
+
+    public void setSyntheticUsername(String syntheticUsername) {
+        this.syntheticUsername = syntheticUsername;
+    }
+
+    public String getSyntheticPassword() {
+        return syntheticPassword;
+    }
+
+    public void setSyntheticPassword(String syntheticPassword) {
+        this.syntheticPassword = syntheticPassword;
+    }
+
+    public int getPoolConnections() {
+        return poolConnections;
+    }
+
+    public void setPoolConnections(int poolConnections) {
+        this.poolConnections = poolConnections;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+
+    public void setMaxRounds(int maxRounds) {
+        this.maxRounds = maxRounds;
+    }
+
+    public int getStableRounds() {
+        return stableRounds;
+    }
+
+    public void setStableRounds(int stableRounds) {
+        this.stableRounds = stableRounds;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+}
@@ -0,0 +1,181 @@
+package com.ohgiraffers.session.warmup;
+
+import com.ohgiraffers.session.auth.model.service.AuthService;
+import com.ohgiraffers.session.config.WarmupProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/* 설명. 서버 기동 직후 로그인 경로를 미리 데워두는(warm-up) 러너
+ *  막 뜬 노드는 JIT 컴파일 전인 BCrypt, 비어있는 커넥션 풀, 아직 준비되지 않은 MyBatis의 findByUsername 구문,
+ *  파싱되지 않은 auth/login.html 때문에 첫 로그인 요청들이 느리게 처리된다.
+ *  ApplicationRunner는 내장 Tomcat이 뜬 뒤, Spring Boot가 ReadinessState.ACCEPTING_TRAFFIC을 발행하기 전에 실행된다.
+ *  따라서 이 러너가 끝날 때까지 /actuator/health/readiness는 OUT_OF_SERVICE(503)를 응답하고,
+ *  로드밸런서는 아직 데워지지 않은 노드로 실제 사용자를 보내지 않는다.
+ *  =======================================================================================================
+ *  warm-up 절차:
+ *   1. 커넥션 풀을 warmup.pool-connections 개수만큼(풀의 최대 크기 이내) 미리 채운다.
+ *   2. DB에 존재하지 않는 가상 사용자(synthetic user)로 실제 AuthService, UserMapper, PasswordEncoder를 호출하고
+ *      로그인 페이지(auth/login.html)를 실제 HTTP 요청으로 렌더링한다.
+ *   3. 라운드마다 p99 응답 시간을 측정하여, 직전 라운드 대비 변화가 허용 범위 안으로
+ *      연속해서 들어오면(= p99 안정화) warm-up을 종료한다. (WarmupStabilizer)
+ * */
+@Component
+public class LoginWarmupRunner implements ApplicationRunner {
+
+    private WarmupProperties properties;
+    private AuthService authService;
+    private PasswordEncoder encoder;
+    private DataSource dataSource;
+    private ApplicationContext context;
+    private Environment environment;
+    private ServerProperties serverProperties;
+
+    private HttpClient client;
+    private URI loginPageUri;
+
+    @Autowired
+    public LoginWarmupRunner(WarmupProperties properties, AuthService authService, PasswordEncoder encoder,
+                             DataSource dataSource, ApplicationContext context, Environment environment,
+                             ServerProperties serverProperties) {
+        this.properties = properties;
+        this.authService = authService;
+        this.encoder = encoder;
+        this.dataSource = dataSource;
+        this.context = context;
+        this.environment = environment;
+        this.serverProperties = serverProperties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        /* 설명. 아직 트래픽을 받을 준비가 되지 않았음을 명시적으로 알린다. */
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        /* 설명. warm-up은 최적화일 뿐이므로, 실패하더라도 노드 기동 자체를 막지 않고 로그만 남긴다. */
+        try {
+            warmUp();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("[Warm-up] 중단되었습니다 : " + e);
+        } catch (Exception e) {
+            System.out.println("[Warm-up] 실패하여 warm-up 없이 기동을 마칩니다 : " + e);
+        }
+
+        /* 설명. 모든 ApplicationRunner가 끝나면 Spring Boot가 ReadinessState.ACCEPTING_TRAFFIC을 발행한다. */
+    }
+
+    private void warmUp() throws Exception {
+
+        fillConnectionPool();
+
+        /* 설명. 가상 사용자의 비밀번호는 실제 회원가입과 같은 인코더(같은 cost)로 한 번만 암호화해둔다. */
+        String syntheticHash = encoder.encode(properties.getSyntheticPassword());
+
+        /* 설명. MOCK 웹 환경(테스트 등)에서는 내장 서버 포트가 없으므로 로그인 페이지 요청은 생략한다. */
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (!Objects.isNull(port)) {
+            client = HttpClient.newHttpClient();
+            loginPageUri = loginPageUri(port);
+        }
+
+        WarmupStabilizer.Result result = new WarmupStabilizer(properties).stabilize(() -> {
+            long start = System.nanoTime();
+            exerciseLoginPath(syntheticHash);
+            return System.nanoTime() - start;
+        });
+
+        System.out.println("[Warm-up] 완료 (rounds = " + result.getRounds()
+                + ", stabilized = " + result.isStabilized() + ")");
+    }
+
+    /* 설명. 풀에서 커넥션을 동시에 여러 개 빌려 물리 커넥션을 미리 맺어둔 뒤 반납한다.
+     *  풀의 최대 크기보다 많이 빌리려 하면 connection-timeout 동안 대기하게 되므로 최대 크기로 제한한다.
+     * */
+    private void fillConnectionPool() throws Exception {
+
+        int connections = properties.getPoolConnections();
+        if (dataSource instanceof HikariDataSource) {
+            connections = Math.min(connections, ((HikariDataSource) dataSource).getMaximumPoolSize());
+        }
+
+        List<Connection> borrowed = new ArrayList<>();
+        try {
+            for (int i = 0; i < connections; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+        }
+    }
+
+    /* 설명. server.address, server.ssl, server.servlet.context-path 설정을 반영해 로그인 페이지 URL을 만든다. */
+    private URI loginPageUri(int port) {
+
+        boolean ssl = !Objects.isNull(serverProperties.getSsl()) && serverProperties.getSsl().isEnabled();
+
+        InetAddress address = serverProperties.getAddress();
+        String host = "localhost";
+        if (!Objects.isNull(address) && !address.isAnyLocalAddress()) {
+            host = (address instanceof Inet6Address) ? "[" + address.getHostAddress() + "]" : address.getHostAddress();
+        }
+
+        String contextPath = Objects.requireNonNullElse(serverProperties.getServlet().getContextPath(), "");
+
+        return URI.create((ssl ? "https" : "http") + "://" + host + ":" + port + contextPath + "/auth/login");
+    }
+
+    /* 설명. 실제 로그인 요청이 거치는 경로를 가상 사용자로 한 번 수행한다. */
+    private void exerciseLoginPath(String syntheticHash) throws InterruptedException {
+
+        /* 설명. AuthService -> UserService -> UserMapper.findByUsername (가상 사용자이므로 예외가 정상이다) */
+        try {
+            authService.loadUserByUsername(properties.getSyntheticUsername());
+        } catch (UsernameNotFoundException ignored) {
+        }
+
+        /* 설명. DaoAuthenticationProvider가 수행하는 것과 같은 BCrypt 비밀번호 비교 */
+        encoder.matches(properties.getSyntheticPassword(), syntheticHash);
+
+        /* 설명. Security Filter Chain -> AuthController -> Thymeleaf(auth/login.html) 렌더링
+         *  (요청이 실패하면 로그인 페이지 warm-up만 건너뛰고 나머지 경로는 계속 데운다)
+         * */
+        if (!Objects.isNull(loginPageUri)) {
+            try {
+                client.send(HttpRequest.newBuilder(loginPageUri).GET().build(), HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                System.out.println("[Warm-up] 로그인 페이지 요청 실패(" + loginPageUri + ") : " + e);
+                loginPageUri = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ohgiraffers.session.warmup;
+
+import com.ohgiraffers.session.config.WarmupProperties;
+
+import java.util.Arrays;
+
+/* 설명. warm-up 라운드를 반복하며 p99 응답 시간이 안정될 때까지 기다리는 클래스
+ *  라운드마다 batch-size 번 측정하여 p99를 구하고, 직전 라운드 대비 변화가 tolerance 이내인 라운드가
+ *  stable-rounds 번 연속되면 종료한다. 끝내 안정되지 않으면 max-rounds에서 종료한다.
+ * */
+class WarmupStabilizer {
+
+    /* 설명. 로그인 경로를 한 번 수행하고 걸린 시간(ns)을 돌려준다. */
+    @FunctionalInterface
+    interface Sampler {
+        long measure() throws InterruptedException;
+    }
+
+    private WarmupProperties properties;
+
+    WarmupStabilizer(WarmupProperties properties) {
+        this.properties = properties;
+    }
+
+    Result stabilize(Sampler sampler) throws InterruptedException {
+
+        long previousP99 = -1;
+        int stableCount = 0;
+        int round = 0;
+
+        while (round < properties.getMaxRounds() && stableCount < properties.getStableRounds()) {
+            round++;
+
+            long[] elapsed = new long[Math.max(properties.getBatchSize(), 1)];
+            for (int i = 0; i < elapsed.length; i++) {
+                elapsed[i] = sampler.measure();
+            }
+
+            long p99 = percentile99(elapsed);
+            if (previousP99 > 0 && Math.abs(p99 - previousP99) <= previousP99 * properties.getTolerance()) {
+                stableCount++;
+            } else {
+                stableCount = 0;
+            }
+            previousP99 = p99;
+
+            System.out.println("[Warm-up] round " + round + " p99 = " + (p99 / 1_000_000.0) + "ms");
+        }
+
+        return new Result(round, stableCount >= properties.getStableRounds());
+    }
+
+    /* 설명. 정렬한 뒤 ceil(n * 0.99) 번째 값(nearest-rank)을 p99로 사용한다. (표본이 1개면 그 값) */
+    static long percentile99(long[] elapsed) {
+
+        long[] sorted = elapsed.clone();
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(sorted.length * 0.99) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    static class Result {
+
+        private final int rounds;
+        private final boolean stabilized;
+
+        Result(int rounds, boolean stabilized) {
+            this.rounds = rounds;
+            this.stabilized = stabilized;
+        }
+
+        int getRounds() {
+            return rounds;
+        }
+
+        boolean isStabilized() {
+            return stabilized;
+        }
+    }
+}
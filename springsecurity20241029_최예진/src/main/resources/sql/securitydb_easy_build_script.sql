@@ -18,5 +18,22 @@ CREATE TABLE IF NOT EXISTS tbl_user
     CONSTRAINT pk_category_code PRIMARY KEY (user_code)
 ) ENGINE=INNODB COMMENT '사용자정보';
 
--- 2) 생성 결과 조회
+-- 2) remember-me 토큰 테이블 생성
+DROP TABLE IF EXISTS tbl_remember_me_token CASCADE;
+
+-- tbl_remember_me_token 테이블 생성 (토큰 값은 평문이 아닌 SHA-256 해시로 저장)
+CREATE TABLE IF NOT EXISTS tbl_remember_me_token
+(
+    series VARCHAR(64) NOT NULL COMMENT '토큰 시리즈(식별자)',
+    username VARCHAR(30) NOT NULL COMMENT '사용자 아이디',
+    token_hash CHAR(64) NOT NULL COMMENT '토큰 값의 SHA-256 해시',
+    created_at DATETIME NOT NULL COMMENT '발급 일시(절대 수명 기준)',
+    last_used DATETIME NOT NULL COMMENT '마지막 사용 일시',
+    CONSTRAINT pk_remember_me_series PRIMARY KEY (series),
+    INDEX idx_remember_me_username (username),
+    INDEX idx_remember_me_last_used (last_used),
+    INDEX idx_remember_me_created_at (created_at)
+) ENGINE=INNODB COMMENT 'remember-me 토큰';
+
+-- 3) 생성 결과 조회
 -- SHOW TABLES;
\ No newline at end of file
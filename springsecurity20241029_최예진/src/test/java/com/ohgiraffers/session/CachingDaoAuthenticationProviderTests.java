@@ -0,0 +1,130 @@
+package com.ohgiraffers.session;
+
+import com.ohgiraffers.session.auth.model.UserRole;
+import com.ohgiraffers.session.auth.model.service.AuthService;
+import com.ohgiraffers.session.auth.model.service.CachingDaoAuthenticationProvider;
+import com.ohgiraffers.session.config.CredentialCacheProperties;
+import com.ohgiraffers.session.user.model.dto.UserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingDaoAuthenticationProviderTests {
+
+    private static final String USERNAME = "user01";
+    private static final String PASSWORD = "pass01";
+
+    /* 설명. 테스트 속도를 위해 cost를 낮춘 BCrypt를 사용한다. */
+    private static final BCryptPasswordEncoder BCRYPT = new BCryptPasswordEncoder(4);
+    private static final String HASH = BCRYPT.encode(PASSWORD);
+
+    @Mock
+    private AuthService authService;
+
+    private PasswordEncoder encoder;
+    private CredentialCacheProperties properties;
+    private MeterRegistry meterRegistry;
+    private CachingDaoAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        encoder = spy(BCRYPT);
+        properties = new CredentialCacheProperties();
+        properties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+
+        provider = new CachingDaoAuthenticationProvider(authService, encoder, properties, meterRegistry);
+    }
+
+    @Test
+    void repeatedLoginWithinTtlSkipsBcrypt() {
+        when(authService.loadUserByUsername(USERNAME)).thenReturn(user(HASH));
+
+        provider.authenticate(token(PASSWORD));
+        provider.authenticate(token(PASSWORD));
+
+        verify(encoder, times(1)).matches(any(), any());
+        assertEquals(1.0, count("hit"));
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void changedStoredHashMissesCache() {
+        String newHash = BCRYPT.encode("new-pass01");
+        when(authService.loadUserByUsername(USERNAME)).thenReturn(user(HASH), user(newHash));
+
+        provider.authenticate(token(PASSWORD));
+
+        /* 설명. DB의 해시가 바뀌었으므로 예전 비밀번호는 캐시로 통과할 수 없고 BCrypt 검증에서 실패해야 한다. */
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token(PASSWORD)));
+
+        verify(encoder, times(2)).matches(any(), any());
+        assertEquals(0.0, count("hit"));
+        assertEquals(2.0, count("miss"));
+    }
+
+    @Test
+    void failedLoginDoesNotPopulateCache() {
+        when(authService.loadUserByUsername(USERNAME)).thenReturn(user(HASH));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("wrong-pass")));
+        provider.authenticate(token(PASSWORD));
+
+        verify(encoder, times(2)).matches(any(), any());
+        assertEquals(0.0, count("hit"));
+    }
+
+    @Test
+    void wrongPasswordKeepsValidEntry() {
+        when(authService.loadUserByUsername(USERNAME)).thenReturn(user(HASH));
+
+        provider.authenticate(token(PASSWORD));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("wrong-pass")));
+        provider.authenticate(token(PASSWORD));
+
+        verify(encoder, times(2)).matches(any(), any());
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void disabledCacheAlwaysDelegatesToBcrypt() {
+        properties.setEnabled(false);
+        when(authService.loadUserByUsername(USERNAME)).thenReturn(user(HASH));
+
+        provider.authenticate(token(PASSWORD));
+        provider.authenticate(token(PASSWORD));
+
+        verify(encoder, times(2)).matches(any(), any());
+        assertEquals(0.0, count("hit"));
+        assertEquals(0.0, count("miss"));
+    }
+
+    private UserDTO user(String hash) {
+        return new UserDTO(1, USERNAME, hash, "홍길동", UserRole.USER);
+    }
+
+    private UsernamePasswordAuthenticationToken token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("auth.credential.cache", "result", result).count();
+    }
+}
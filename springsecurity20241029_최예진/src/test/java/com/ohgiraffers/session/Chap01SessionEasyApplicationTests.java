@@ -3,7 +3,8 @@ package com.ohgiraffers.session;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+/* 설명. 테스트 컨텍스트에서는 기동 시 로그인 경로 warm-up(BCrypt 반복)을 수행하지 않는다. */
+@SpringBootTest(properties = "warmup.enabled=false")
 class Chap01SessionEasyApplicationTests {
 
     @Test
@@ -0,0 +1,177 @@
+package com.ohgiraffers.session;
+
+import com.ohgiraffers.session.auth.model.UserRole;
+import com.ohgiraffers.session.auth.model.dto.RememberMeTokenDTO;
+import com.ohgiraffers.session.auth.model.service.AuthService;
+import com.ohgiraffers.session.auth.model.service.FailSafeRememberMeServices;
+import com.ohgiraffers.session.auth.model.service.RememberMeService;
+import com.ohgiraffers.session.auth.model.service.RememberMeTokenStore;
+import com.ohgiraffers.session.config.RememberMeProperties;
+import com.ohgiraffers.session.user.model.dto.UserDTO;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RememberMeServiceTests {
+
+    private static final String SERIES = "series01";
+    private static final String TOKEN = "token01";
+    private static final String USERNAME = "user01";
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private RememberMeTokenStore tokenStore;
+
+    private RememberMeProperties properties;
+    private RememberMeService rememberMeService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RememberMeProperties();
+        properties.setKey("test-remember-me-key");
+
+        rememberMeService = new RememberMeService(properties, authService, tokenStore);
+    }
+
+    @Test
+    void validCookieAuthenticatesAndMarksSeriesUsed() {
+        LocalDateTime now = LocalDateTime.now();
+        when(tokenStore.findBySeries(SERIES)).thenReturn(new RememberMeTokenDTO(SERIES, USERNAME, sha256(TOKEN), now, now));
+        when(authService.loadUserByUsername(USERNAME))
+                .thenReturn(new UserDTO(1, USERNAME, "encoded", "홍길동", UserRole.USER));
+
+        Authentication authentication = rememberMeService.autoLogin(requestWithCookie(), new MockHttpServletResponse());
+
+        assertNotNull(authentication);
+        assertEquals(USERNAME, authentication.getName());
+        verify(tokenStore).markUsed(eq(SERIES), any(LocalDateTime.class));
+    }
+
+    @Test
+    void wrongTokenForKnownSeriesRemovesAllUserTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        when(tokenStore.findBySeries(SERIES))
+                .thenReturn(new RememberMeTokenDTO(SERIES, USERNAME, sha256("other-token"), now, now));
+
+        assertThrows(CookieTheftException.class,
+                     () -> rememberMeService.autoLogin(requestWithCookie(), new MockHttpServletResponse()));
+
+        verify(tokenStore).removeUserTokens(USERNAME);
+        verify(authService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void tokenUnusedForLongerThanValidityIsRejected() {
+        LocalDateTime lastUsed = LocalDateTime.now().minusSeconds(properties.getTokenValiditySeconds() + 60L);
+        when(tokenStore.findBySeries(SERIES))
+                .thenReturn(new RememberMeTokenDTO(SERIES, USERNAME, sha256(TOKEN), lastUsed, lastUsed));
+
+        assertNull(rememberMeService.autoLogin(requestWithCookie(), new MockHttpServletResponse()));
+
+        verify(tokenStore, never()).markUsed(any(), any());
+        verify(authService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void tokenOlderThanMaxLifetimeIsRejectedEvenIfRecentlyUsed() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdAt = now.minusSeconds(properties.getMaxLifetimeSeconds() + 60L);
+        when(tokenStore.findBySeries(SERIES))
+                .thenReturn(new RememberMeTokenDTO(SERIES, USERNAME, sha256(TOKEN), createdAt, now));
+
+        assertNull(rememberMeService.autoLogin(requestWithCookie(), new MockHttpServletResponse()));
+
+        verify(tokenStore, never()).markUsed(any(), any());
+    }
+
+    @Test
+    void logoutRemovesOnlyPresentedSeries() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(USERNAME, null);
+
+        rememberMeService.logout(requestWithCookie(), new MockHttpServletResponse(), authentication);
+
+        verify(tokenStore).removeSeries(SERIES);
+        verify(tokenStore, never()).removeUserTokens(any());
+    }
+
+    @Test
+    void databaseDownDuringAutoLoginFallsBackToAnonymousAndKeepsCookie() {
+        when(tokenStore.findBySeries(SERIES)).thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Authentication authentication = new FailSafeRememberMeServices(rememberMeService)
+                .autoLogin(requestWithCookie(), response);
+
+        assertNull(authentication);
+        assertNull(response.getCookie("remember-me"));
+        verify(tokenStore, never()).removeUserTokens(any());
+    }
+
+    @Test
+    void databaseDownDuringLogoutStillCancelsCookie() {
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패")).when(tokenStore).removeSeries(SERIES);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(USERNAME, null);
+
+        assertDoesNotThrow(() -> rememberMeService.logout(requestWithCookie(), response, authentication));
+
+        assertEquals(0, response.getCookie("remember-me").getMaxAge());
+    }
+
+    @Test
+    void missingKeyFallsBackToRandomKey() {
+        RememberMeService withoutKey = new RememberMeService(new RememberMeProperties(), authService, tokenStore);
+
+        assertNotNull(withoutKey.getKey());
+        assertFalse(withoutKey.getKey().isBlank());
+    }
+
+    private MockHttpServletRequest requestWithCookie() {
+        String value = Base64.getEncoder()
+                             .encodeToString((SERIES + ":" + TOKEN).getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("remember-me", value));
+        return request;
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
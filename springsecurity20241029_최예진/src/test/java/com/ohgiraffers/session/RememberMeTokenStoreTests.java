@@ -0,0 +1,105 @@
+package com.ohgiraffers.session;
+
+import com.ohgiraffers.session.auth.model.dao.RememberMeTokenMapper;
+import com.ohgiraffers.session.auth.model.dto.RememberMeTokenDTO;
+import com.ohgiraffers.session.auth.model.service.RememberMeTokenStore;
+import com.ohgiraffers.session.config.RememberMeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RememberMeTokenStoreTests {
+
+    @Mock
+    private RememberMeTokenMapper tokenMapper;
+
+    @Captor
+    private ArgumentCaptor<List<RememberMeTokenDTO>> batchCaptor;
+
+    private RememberMeTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new RememberMeTokenStore(tokenMapper, new RememberMeProperties());
+    }
+
+    @Test
+    void flushLastUsedRequeuesBatchOnDataAccessException() {
+        LocalDateTime usedAt = LocalDateTime.now();
+        tokenStore.markUsed("series01", usedAt);
+        when(tokenMapper.updateLastUsed(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .thenReturn(1);
+
+        tokenStore.flushLastUsed();
+        tokenStore.flushLastUsed();
+
+        verify(tokenMapper, times(2)).updateLastUsed(batchCaptor.capture());
+        List<RememberMeTokenDTO> retried = batchCaptor.getAllValues().get(1);
+        assertEquals(1, retried.size());
+        assertEquals("series01", retried.get(0).getSeries());
+        assertEquals(usedAt, retried.get(0).getLastUsed());
+    }
+
+    @Test
+    void findBySeriesPropagatesDataAccessExceptionWithoutCachingMiss() {
+        LocalDateTime now = LocalDateTime.now();
+        RememberMeTokenDTO stored = new RememberMeTokenDTO("series01", "user01", "hash", now, now);
+        when(tokenMapper.findBySeries("series01"))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .thenReturn(stored);
+
+        /* 설명. DB 오류는 '토큰 없음(null)'으로 바꾸지 않고 그대로 전달해야 쿠키가 삭제되지 않는다. */
+        assertThrows(DataAccessException.class, () -> tokenStore.findBySeries("series01"));
+
+        assertEquals("user01", tokenStore.findBySeries("series01").getUsername());
+    }
+
+    @Test
+    void cachedTokenKeepsLatestLastUsedAfterFlush() {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(13);
+        tokenStore.createToken(new RememberMeTokenDTO("series01", "user01", "hash", createdAt, createdAt));
+
+        LocalDateTime usedAt = LocalDateTime.now();
+        tokenStore.markUsed("series01", usedAt);
+        when(tokenMapper.updateLastUsed(anyList())).thenReturn(1);
+        tokenStore.flushLastUsed();
+
+        RememberMeTokenDTO found = tokenStore.findBySeries("series01");
+
+        assertEquals(usedAt, found.getLastUsed());
+        verify(tokenMapper, never()).findBySeries(any());
+    }
+
+    @Test
+    void removeSeriesDeletesOnlyThatSeries() {
+        LocalDateTime now = LocalDateTime.now();
+        tokenStore.createToken(new RememberMeTokenDTO("series01", "user01", "hash", now, now));
+
+        tokenStore.removeSeries("series01");
+
+        verify(tokenMapper).deleteBySeries("series01");
+        verify(tokenMapper, never()).deleteByUsername(any());
+        assertNull(tokenStore.findBySeries("series01"));
+    }
+}
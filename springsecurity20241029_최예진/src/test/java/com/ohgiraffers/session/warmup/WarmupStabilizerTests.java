@@ -0,0 +1,80 @@
+package com.ohgiraffers.session.warmup;
+
+import com.ohgiraffers.session.config.WarmupProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WarmupStabilizerTests {
+
+    private WarmupProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        properties.setBatchSize(10);
+        properties.setMaxRounds(6);
+        properties.setStableRounds(2);
+        properties.setTolerance(0.1);
+    }
+
+    @Test
+    void stableP99StopsBeforeMaxRounds() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+
+        WarmupStabilizer.Result result = new WarmupStabilizer(properties).stabilize(() -> {
+            calls.incrementAndGet();
+            return 1_000L;
+        });
+
+        /* 설명. 첫 라운드는 비교 대상이 없으므로, 2·3 라운드가 연속으로 안정되면 종료한다. */
+        assertTrue(result.isStabilized());
+        assertEquals(3, result.getRounds());
+        assertEquals(3 * properties.getBatchSize(), calls.get());
+    }
+
+    @Test
+    void unstableP99StopsAtMaxRounds() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+
+        /* 설명. 라운드마다 응답 시간이 두 배가 되어 한 번도 허용 범위 안에 들어오지 않는다. */
+        WarmupStabilizer.Result result = new WarmupStabilizer(properties).stabilize(
+                () -> 1_000L << (calls.getAndIncrement() / properties.getBatchSize()));
+
+        assertFalse(result.isStabilized());
+        assertEquals(properties.getMaxRounds(), result.getRounds());
+    }
+
+    @Test
+    void singleSampleUsesIndexZero() {
+        assertEquals(42L, WarmupStabilizer.percentile99(new long[]{42L}));
+    }
+
+    @Test
+    void hundredSamplesUseNinetyNinthValue() {
+        long[] elapsed = new long[100];
+        for (int i = 0; i < elapsed.length; i++) {
+            elapsed[i] = 100 - i;
+        }
+
+        assertEquals(99L, WarmupStabilizer.percentile99(elapsed));
+    }
+
+    @Test
+    void nonPositiveBatchSizeStillSamplesOncePerRound() throws InterruptedException {
+        properties.setBatchSize(0);
+        AtomicInteger calls = new AtomicInteger();
+
+        WarmupStabilizer.Result result = new WarmupStabilizer(properties).stabilize(() -> {
+            calls.incrementAndGet();
+            return 1_000L;
+        });
+
+        assertEquals(result.getRounds(), calls.get());
+    }
+}